@@ -4,4 +4,4 @@
 cd /d %~dp0\..
 
 :: Run the server
-java -cp bin/ com.nebulous.chat.server.Server
+java -cp bin/ com.nebulous.chat.server.Server %*
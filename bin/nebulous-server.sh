@@ -4,4 +4,4 @@
 cd "$(dirname "$0")/.."
 
 # Run the server
-java -cp bin/ com.nebulous.chat.server.Server
+java -cp bin/ com.nebulous.chat.server.Server "$@"
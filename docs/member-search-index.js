@@ -1 +1 @@
-memberSearchIndex = [{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"ChatConstants()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.client","c":"Client","l":"Client()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"ClientConnection(PrintWriter, Socket)","u":"%3Cinit%3E(java.io.PrintWriter,java.net.Socket)"},{"p":"com.nebulous.chat.server","c":"ClientHandler","l":"ClientHandler(Socket)","u":"%3Cinit%3E(java.net.Socket)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"close()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"DEFAULT_USER_NAME"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"EXIT_COMMAND"},{"p":"com.nebulous.chat.server","c":"Server","l":"getClientConnections()"},{"p":"com.nebulous.chat.client","c":"UserInputHandler","l":"getServerAddress(Scanner)","u":"getServerAddress(java.util.Scanner)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"getSocket()"},{"p":"com.nebulous.chat.client","c":"UserInputHandler","l":"getUserName(Scanner)","u":"getUserName(java.util.Scanner)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"getWriter()"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"isSocketOpen()"},{"p":"com.nebulous.chat.client","c":"Client","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"com.nebulous.chat.server","c":"Server","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"com.nebulous.chat.client","c":"MessageReceiver","l":"MessageReceiver()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.client","c":"MessageSender","l":"MessageSender()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"PORT"},{"p":"com.nebulous.chat.server","c":"ClientHandler","l":"run()"},{"p":"com.nebulous.chat.server","c":"ShutdownThread","l":"run()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SERVER_FULL_MESSAGE"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SERVER_SHUTDOWN_MESSAGE"},{"p":"com.nebulous.chat.server","c":"Server","l":"Server()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server","c":"Server","l":"shutdownServer()"},{"p":"com.nebulous.chat.server","c":"ShutdownThread","l":"ShutdownThread()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.client","c":"MessageReceiver","l":"start(BufferedReader, Socket)","u":"start(java.io.BufferedReader,java.net.Socket)"},{"p":"com.nebulous.chat.client","c":"MessageSender","l":"start(Scanner, PrintWriter, Socket, String)","u":"start(java.util.Scanner,java.io.PrintWriter,java.net.Socket,java.lang.String)"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"THREAD_POOL_SIZE"},{"p":"com.nebulous.chat.client","c":"UserInputHandler","l":"UserInputHandler()","u":"%3Cinit%3E()"}];updateSearchResults();
\ No newline at end of file
+memberSearchIndex = [{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"ACK_COMMAND"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"ACK_INTERVAL"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"acknowledge(long)"},{"p":"com.nebulous.chat.server","c":"Server","l":"addClientConnection(ClientConnection)","u":"addClientConnection(com.nebulous.chat.server.ClientConnection)"},{"p":"com.nebulous.chat.server.events","c":"BroadcastEvent","l":"BroadcastEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server.events","c":"BroadcastEvent","l":"bytes"},{"p":"com.nebulous.chat.server.events","c":"SlowWriteEvent","l":"bytes"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"ChatConstants()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.client","c":"Client","l":"Client()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"ClientConnection(PrintWriter, Socket)","u":"%3Cinit%3E(java.io.PrintWriter,java.net.Socket)"},{"p":"com.nebulous.chat.server","c":"ClientHandler","l":"ClientHandler(Socket)","u":"%3Cinit%3E(java.net.Socket)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"close()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"CONFIG_COMMAND"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"CONFIG_FILE_KEY"},{"p":"com.nebulous.chat.server","c":"ConfigWatcher","l":"ConfigWatcher(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"com.nebulous.chat.server.events","c":"ConnectionAcceptedEvent","l":"ConnectionAcceptedEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server.events","c":"ConnectionClosedEvent","l":"ConnectionClosedEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server.events","c":"ConnectionRejectedEvent","l":"ConnectionRejectedEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"DEFAULT_CONFIG_FILE"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"DEFAULT_USER_NAME"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"deliver(long, String, int, boolean)","u":"deliver(long,java.lang.String,int,boolean)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"enableSequencing()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"EXIT_COMMAND"},{"p":"com.nebulous.chat.server","c":"Server","l":"getClientConnections()"},{"p":"com.nebulous.chat.server","c":"Server","l":"getConfig()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getConfigFile()"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"getLowWaterMark()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getOverrideSource(String)","u":"getOverrideSource(java.lang.String)"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getPort()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getRateLimitMessagesPerSecond()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getRetransmitBufferSize()"},{"p":"com.nebulous.chat.client","c":"UserInputHandler","l":"getServerAddress(Scanner)","u":"getServerAddress(java.util.Scanner)"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getShadowedFileChanges(ServerConfig)","u":"getShadowedFileChanges(com.nebulous.chat.server.ServerConfig)"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getShutdownTimeoutSeconds()"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"getSocket()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getSocketTimeoutMillis()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"getThreadPoolSize()"},{"p":"com.nebulous.chat.client","c":"UserInputHandler","l":"getUserName(Scanner)","u":"getUserName(java.util.Scanner)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"getWriter()"},{"p":"com.nebulous.chat.server.events","c":"HandshakeCompleteEvent","l":"HandshakeCompleteEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"INVALID_ACK_MESSAGE"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"isSocketOpen()"},{"p":"com.nebulous.chat.server.events","c":"MessageReceivedEvent","l":"length"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"load(String[])","u":"load(java.lang.String[])"},{"p":"com.nebulous.chat.server.events","c":"ConnectionClosedEvent","l":"lowWaterMark"},{"p":"com.nebulous.chat.client","c":"Client","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"com.nebulous.chat.server","c":"Server","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"com.nebulous.chat.server.events","c":"MessageReceivedEvent","l":"MessageReceivedEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.client","c":"MessageReceiver","l":"MessageReceiver()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.client","c":"MessageSender","l":"MessageSender()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server","c":"Server","l":"nextMessageSequence()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"PORT"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"PORT_KEY"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"RATE_LIMIT_KEY"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"RATE_LIMIT_MESSAGES_PER_SECOND"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"RATE_LIMITED_MESSAGE"},{"p":"com.nebulous.chat.server.events","c":"ConnectionClosedEvent","l":"reason"},{"p":"com.nebulous.chat.server.events","c":"ConnectionRejectedEvent","l":"reason"},{"p":"com.nebulous.chat.server.events","c":"SlowWriteEvent","l":"recipientAddress"},{"p":"com.nebulous.chat.server.events","c":"BroadcastEvent","l":"recipients"},{"p":"com.nebulous.chat.server.events","c":"ConnectionAcceptedEvent","l":"registeredConnections"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"RELOAD_COMMAND"},{"p":"com.nebulous.chat.server","c":"Server","l":"reloadConfig()"},{"p":"com.nebulous.chat.server.events","c":"ConnectionAcceptedEvent","l":"remoteAddress"},{"p":"com.nebulous.chat.server.events","c":"ConnectionClosedEvent","l":"remoteAddress"},{"p":"com.nebulous.chat.server.events","c":"ConnectionRejectedEvent","l":"remoteAddress"},{"p":"com.nebulous.chat.server.events","c":"HandshakeCompleteEvent","l":"remoteAddress"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"RESEND_COMMAND"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"resendUnacknowledged()"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"RETRANSMIT_BUFFER_SIZE"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"RETRANSMIT_BUFFER_SIZE_KEY"},{"p":"com.nebulous.chat.server","c":"ClientHandler","l":"run()"},{"p":"com.nebulous.chat.server","c":"ConfigWatcher","l":"run()"},{"p":"com.nebulous.chat.server","c":"ShutdownThread","l":"run()"},{"p":"com.nebulous.chat.server.events","c":"BroadcastEvent","l":"sequence"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SEQUENCE_COMMAND"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SEQUENCE_PREFIX"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SERVER_FULL_MESSAGE"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SERVER_SHUTDOWN_MESSAGE"},{"p":"com.nebulous.chat.server","c":"Server","l":"Server()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"SHUTDOWN_TIMEOUT_KEY"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SHUTDOWN_TIMEOUT_SECONDS"},{"p":"com.nebulous.chat.server","c":"Server","l":"shutdownServer()"},{"p":"com.nebulous.chat.server","c":"ShutdownThread","l":"ShutdownThread()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server.events","c":"SlowWriteEvent","l":"SlowWriteEvent()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"SOCKET_TIMEOUT_KEY"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"SOCKET_TIMEOUT_MILLIS"},{"p":"com.nebulous.chat.client","c":"MessageReceiver","l":"start(BufferedReader, PrintWriter, Socket)","u":"start(java.io.BufferedReader,java.io.PrintWriter,java.net.Socket)"},{"p":"com.nebulous.chat.client","c":"MessageSender","l":"start(Scanner, PrintWriter, Socket, String)","u":"start(java.util.Scanner,java.io.PrintWriter,java.net.Socket,java.lang.String)"},{"p":"com.nebulous.chat.server","c":"ClientConnection","l":"startSequence(long)"},{"p":"com.nebulous.chat.utils","c":"ChatConstants","l":"THREAD_POOL_SIZE"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"THREAD_POOL_SIZE_KEY"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"toString()"},{"p":"com.nebulous.chat.client","c":"UserInputHandler","l":"UserInputHandler()","u":"%3Cinit%3E()"},{"p":"com.nebulous.chat.server.events","c":"BroadcastEvent","l":"userName"},{"p":"com.nebulous.chat.server.events","c":"ConnectionClosedEvent","l":"userName"},{"p":"com.nebulous.chat.server.events","c":"HandshakeCompleteEvent","l":"userName"},{"p":"com.nebulous.chat.server.events","c":"MessageReceivedEvent","l":"userName"},{"p":"com.nebulous.chat.server.events","c":"SlowWriteEvent","l":"userName"},{"p":"com.nebulous.chat.server","c":"ServerConfig","l":"warnUnknownEnvironment()"}];updateSearchResults();
\ No newline at end of file
@@ -1 +1 @@
-packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"com.nebulous.chat.client"},{"l":"com.nebulous.chat.server"},{"l":"com.nebulous.chat.utils"}];updateSearchResults();
\ No newline at end of file
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"com.nebulous.chat.client"},{"l":"com.nebulous.chat.server"},{"l":"com.nebulous.chat.server.events"},{"l":"com.nebulous.chat.utils"}];updateSearchResults();
\ No newline at end of file
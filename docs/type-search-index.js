@@ -1 +1 @@
-typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"com.nebulous.chat.utils","l":"ChatConstants"},{"p":"com.nebulous.chat.client","l":"Client"},{"p":"com.nebulous.chat.server","l":"ClientConnection"},{"p":"com.nebulous.chat.server","l":"ClientHandler"},{"p":"com.nebulous.chat.client","l":"MessageReceiver"},{"p":"com.nebulous.chat.client","l":"MessageSender"},{"p":"com.nebulous.chat.server","l":"Server"},{"p":"com.nebulous.chat.server","l":"ShutdownThread"},{"p":"com.nebulous.chat.client","l":"UserInputHandler"}];updateSearchResults();
\ No newline at end of file
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"com.nebulous.chat.server.events","l":"BroadcastEvent"},{"p":"com.nebulous.chat.utils","l":"ChatConstants"},{"p":"com.nebulous.chat.client","l":"Client"},{"p":"com.nebulous.chat.server","l":"ClientConnection"},{"p":"com.nebulous.chat.server","l":"ClientHandler"},{"p":"com.nebulous.chat.server","l":"ConfigWatcher"},{"p":"com.nebulous.chat.server.events","l":"ConnectionAcceptedEvent"},{"p":"com.nebulous.chat.server.events","l":"ConnectionClosedEvent"},{"p":"com.nebulous.chat.server.events","l":"ConnectionRejectedEvent"},{"p":"com.nebulous.chat.server.events","l":"HandshakeCompleteEvent"},{"p":"com.nebulous.chat.server.events","l":"MessageReceivedEvent"},{"p":"com.nebulous.chat.client","l":"MessageReceiver"},{"p":"com.nebulous.chat.client","l":"MessageSender"},{"p":"com.nebulous.chat.server","l":"Server"},{"p":"com.nebulous.chat.server","l":"ServerConfig"},{"p":"com.nebulous.chat.server","l":"ShutdownThread"},{"p":"com.nebulous.chat.server.events","l":"SlowWriteEvent"},{"p":"com.nebulous.chat.client","l":"UserInputHandler"}];updateSearchResults();
\ No newline at end of file
@@ -58,8 +58,11 @@ public class Client {
                 userName += "@" + socket.getInetAddress().getHostAddress();
                 writer.println(userName);
 
+                // Ask for sequence-numbered messages so they can be acknowledged
+                writer.println(ChatConstants.SEQUENCE_COMMAND);
+
                 // Start a new thread to listen for incoming messages from the server
-                MessageReceiver.start(reader, socket);
+                MessageReceiver.start(reader, writer, socket);
 
                 // Start allowing the user to send messages to the server
                 MessageSender.start(scanner, writer, socket, userName);
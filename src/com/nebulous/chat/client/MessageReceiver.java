@@ -9,7 +9,9 @@ import com.nebulous.chat.utils.ChatConstants;
  * The {@code MessageReceiver} class is responsible for receiving messages from
  * the server and displaying them to the client. It listens for incoming
  * messages in a separate thread and handles special messages such as server
- * shutdown or server full notifications.
+ * shutdown or server full notifications. Sequence-numbered messages have their
+ * number removed before display, duplicates from a resend are skipped, and
+ * received messages are acknowledged to the server periodically.
  */
 public class MessageReceiver {
 
@@ -17,23 +19,44 @@ public class MessageReceiver {
      * Starts a thread to continuously listen for incoming messages from the server.
      * This method reads messages from the server and displays them on the client's
      * console. If a special server message (such as shutdown or server full) is
-     * received, it terminates the client application.
+     * received, it terminates the client application. Every
+     * {@link ChatConstants#ACK_INTERVAL} sequenced messages, the highest sequence
+     * number received is acknowledged to the server.
      *
      * @param reader The {@link BufferedReader} used to read messages from the
      *               server.
+     * @param writer The {@link PrintWriter} used to send acknowledgements to the
+     *               server.
      * @param socket The {@link Socket} through which the client communicates with
      *               the server.
      */
-    public static void start(BufferedReader reader, Socket socket) {
+    public static void start(BufferedReader reader, PrintWriter writer, Socket socket) {
 
         // Create and start a new thread to receive messages from the server
         Thread receiveThread = new Thread(() -> {
             try {
                 String message;
+                long lastSequence = 0;
+                int unacknowledged = 0;
 
                 // Continuously listen for incoming messages from the server
                 while ((message = reader.readLine()) != null) {
 
+                    // Strip the sequence number, skipping messages already shown
+                    long sequence = parseSequence(message);
+                    if (sequence > 0) {
+                        if (sequence <= lastSequence)
+                            continue;
+                        lastSequence = sequence;
+                        message = message.substring(message.indexOf(' ') + 1);
+
+                        // Acknowledge everything received so far every few messages
+                        if (++unacknowledged >= ChatConstants.ACK_INTERVAL) {
+                            writer.println(ChatConstants.ACK_COMMAND + " " + lastSequence);
+                            unacknowledged = 0;
+                        }
+                    }
+
                     // Print a newline for better message formatting in the console
                     System.out.print("\n");
                     System.out.println(message);
@@ -60,4 +83,22 @@ public class MessageReceiver {
         receiveThread.start();
 
     }
+
+    /**
+     * Reads the sequence number from a sequence-numbered message.
+     *
+     * @param message The message received from the server.
+     * @return The message's sequence number, or {@code 0} if the message is not
+     *         sequence-numbered.
+     */
+    private static long parseSequence(String message) {
+        int space = message.indexOf(' ');
+        if (!message.startsWith(ChatConstants.SEQUENCE_PREFIX) || space < 0)
+            return 0;
+        try {
+            return Long.parseLong(message.substring(ChatConstants.SEQUENCE_PREFIX.length(), space));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 }
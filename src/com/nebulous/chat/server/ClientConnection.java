@@ -2,11 +2,22 @@ package com.nebulous.chat.server;
 
 import java.io.*;
 import java.net.*;
+import java.nio.charset.Charset;
+import java.util.*;
+
+import com.nebulous.chat.utils.ChatConstants;
 
 /**
  * Represents a connection to a client on the server side. This class provides
  * methods to manage the client's socket and writer, check the connection
  * status, and cleanly close the connection.
+ * 
+ * <p>
+ * Chat messages are delivered through {@link #deliver(long, String, int, boolean)}, which
+ * writes them in sequence order even when several handler threads broadcast
+ * at once. A client can also opt in to sequenced delivery, in which case each
+ * message is prefixed with its sequence number and kept in a retransmit buffer
+ * until the client acknowledges it.
  */
 public class ClientConnection {
 
@@ -20,6 +31,37 @@ public class ClientConnection {
      */
     private Socket socket;
 
+    /**
+     * The sequence number of the next message to write to the client. Guarded by
+     * this connection's monitor.
+     */
+    private long nextSequence;
+
+    /**
+     * Messages that arrived ahead of {@link #nextSequence}, keyed by sequence
+     * number, waiting for the gap before them to be filled. Guarded by this
+     * connection's monitor.
+     */
+    private final TreeMap<Long, String> pending = new TreeMap<>();
+
+    /**
+     * Whether the client has opted in to sequence-numbered delivery and
+     * acknowledgements.
+     */
+    private boolean sequenced;
+
+    /**
+     * Messages written to a sequenced client but not yet acknowledged, keyed by
+     * sequence number. Guarded by this connection's monitor.
+     */
+    private final TreeMap<Long, String> unacknowledged = new TreeMap<>();
+
+    /**
+     * The highest sequence number the client has acknowledged, or {@code 0} if it
+     * has not acknowledged any message.
+     */
+    private volatile long lowWaterMark;
+
     /**
      * Constructs a {@code ClientConnection} instance with the provided
      * writer and socket.
@@ -60,6 +102,125 @@ public class ClientConnection {
         return socket != null && !socket.isClosed();
     }
 
+    /**
+     * Sets the sequence number of the first message this connection should
+     * receive. Messages with lower sequence numbers were sent before the client
+     * joined and are ignored.
+     *
+     * @param sequence The sequence number of the first message to deliver.
+     */
+    public synchronized void startSequence(long sequence) {
+        nextSequence = sequence;
+    }
+
+    /**
+     * Delivers a chat message to the client in sequence order. If earlier
+     * messages have not arrived yet, the message is held until they do; the
+     * thread that fills the gap then writes every message that has become
+     * contiguous.
+     *
+     * @param sequence           The message's sequence number.
+     * @param message            The message to deliver.
+     * @param retransmitCapacity The maximum number of unacknowledged messages to
+     *                           keep for a sequenced client.
+     * @param countBytes         Whether to count the bytes written, which is only
+     *                           needed when a flight recorder event is enabled.
+     * @return The number of bytes this call wrote, including sequence prefixes and
+     *         any earlier messages it flushed, or {@code 0} if bytes are not
+     *         counted.
+     */
+    public synchronized long deliver(long sequence, String message, int retransmitCapacity, boolean countBytes) {
+        if (sequence < nextSequence)
+            return 0;
+        pending.put(sequence, message);
+
+        long bytes = 0;
+        String next;
+        while ((next = pending.remove(nextSequence)) != null) {
+            String line = next;
+            if (sequenced) {
+                line = format(nextSequence, next);
+                unacknowledged.put(nextSequence, next);
+                while (unacknowledged.size() > retransmitCapacity)
+                    unacknowledged.pollFirstEntry();
+            }
+            writer.println(line);
+            if (countBytes)
+                bytes += encodedLength(line);
+            nextSequence++;
+        }
+        return bytes;
+    }
+
+    /**
+     * Switches the client to sequenced delivery. From now on, every chat message
+     * is prefixed with its sequence number and retained until acknowledged.
+     */
+    public synchronized void enableSequencing() {
+        sequenced = true;
+    }
+
+    /**
+     * Records that the client has received every message up to and including the
+     * given sequence number, and trims those messages from the retransmit buffer.
+     * Acknowledgements for messages not yet delivered are capped at the last
+     * delivered message, and stale acknowledgements are ignored, as are all
+     * acknowledgements from a client that has not opted in to sequenced delivery.
+     *
+     * @param sequence The highest sequence number the client has received.
+     */
+    public synchronized void acknowledge(long sequence) {
+        if (!sequenced)
+            return;
+        long acknowledged = Math.min(sequence, nextSequence - 1);
+        if (acknowledged <= lowWaterMark)
+            return;
+        lowWaterMark = acknowledged;
+        unacknowledged.headMap(acknowledged, true).clear();
+    }
+
+    /**
+     * Writes every unacknowledged message to the client again, oldest first. The
+     * messages keep their original sequence numbers so the client can discard any
+     * it already has.
+     */
+    public synchronized void resendUnacknowledged() {
+        for (Map.Entry<Long, String> entry : unacknowledged.entrySet())
+            writer.println(format(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Returns the highest sequence number the client has acknowledged.
+     *
+     * @return The client's low-water mark, or {@code 0} if it has not
+     *         acknowledged any message.
+     */
+    public long getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    /**
+     * Returns the number of bytes a line occupies on the wire when written with
+     * {@code println}, using the platform charset as {@link PrintWriter} does.
+     *
+     * @param line The line being written.
+     * @return The encoded length of the line and its line separator.
+     */
+    private static long encodedLength(String line) {
+        return (line + System.lineSeparator()).getBytes(Charset.defaultCharset()).length;
+    }
+
+    /**
+     * Formats a message for sequenced delivery.
+     *
+     * @param sequence The message's sequence number.
+     * @param message  The message text.
+     * @return The message prefixed with its sequence number.
+     */
+    private static String format(long sequence, String message) {
+        return ChatConstants.SEQUENCE_PREFIX + sequence + " " + message;
+    }
+
     /**
      * Closes the client's socket if it is open. This method ensures that the
      * resources associated with the client's connection are released.
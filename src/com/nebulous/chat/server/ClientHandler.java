@@ -3,12 +3,14 @@ package com.nebulous.chat.server;
 import java.io.*;
 import java.net.*;
 
+import com.nebulous.chat.server.events.*;
 import com.nebulous.chat.utils.ChatConstants;
 
 /**
  * Handles the server-side processing for a single client connection.
  * Manages receiving messages from the client, broadcasting messages to other
- * clients, and cleaning up resources upon disconnection.
+ * clients, and cleaning up resources upon disconnection. Each stage of the
+ * connection's lifecycle is recorded as a JDK Flight Recorder event.
  */
 public class ClientHandler extends Thread {
 
@@ -22,6 +24,45 @@ public class ClientHandler extends Thread {
      */
     private String userName;
 
+    /**
+     * The remote address and port of the client, used to identify the connection
+     * in flight recorder events.
+     */
+    private String remoteAddress;
+
+    /**
+     * Why the connection was closed, recorded when the connection is cleaned up.
+     */
+    private String closeReason = "unknown";
+
+    /**
+     * Flight recorder event timing the handshake, started when the connection is
+     * handed to this handler.
+     */
+    private HandshakeCompleteEvent handshakeEvent = new HandshakeCompleteEvent();
+
+    /**
+     * The writer used to send messages to this client.
+     */
+    private PrintWriter writer;
+
+    /**
+     * This client's registered connection, through which broadcasts and
+     * acknowledgements are handled.
+     */
+    private ClientConnection connection;
+
+    /**
+     * Start time, in milliseconds, of the current rate limit window.
+     */
+    private long rateWindowStart;
+
+    /**
+     * Number of messages received from the client in the current rate limit
+     * window.
+     */
+    private int rateWindowCount;
+
     /**
      * Constructs a ClientHandler with the specified client socket.
      * 
@@ -29,6 +70,8 @@ public class ClientHandler extends Thread {
      */
     public ClientHandler(Socket socket) {
         this.socket = socket;
+        this.remoteAddress = String.valueOf(socket.getRemoteSocketAddress());
+        handshakeEvent.begin();
     }
 
     /**
@@ -41,23 +84,56 @@ public class ClientHandler extends Thread {
         try (InputStreamReader inputStream = new InputStreamReader(socket.getInputStream());
                 BufferedReader reader = new BufferedReader(inputStream)) {
 
+            // Apply the configured read timeout before the first read.
+            socket.setSoTimeout(Server.getConfig().getSocketTimeoutMillis());
+
             // Read and set the username, or use a default if empty.
             userName = reader.readLine();
             if (userName.isEmpty())
                 userName = ChatConstants.DEFAULT_USER_NAME;
 
             // Register the client connection with the server.
-            Server.getClientConnections()
-                    .add(new ClientConnection(new PrintWriter(socket.getOutputStream(), true), socket));
+            writer = new PrintWriter(socket.getOutputStream(), true);
+            connection = new ClientConnection(writer, socket);
+            Server.addClientConnection(connection);
             System.out
                     .println(userName + " has connected. Active connections: " + Server.getClientConnections().size());
+            handshakeEvent.end();
+            if (handshakeEvent.shouldCommit()) {
+                handshakeEvent.remoteAddress = remoteAddress;
+                handshakeEvent.userName = userName;
+                handshakeEvent.commit();
+            }
             sendToAll(userName + " has joined the chat.");
 
             // Process incoming messages from the client.
-            String message;
-            while ((message = reader.readLine()) != null) {
-                if (message.equalsIgnoreCase(ChatConstants.EXIT_COMMAND))
+            while (true) {
+                MessageReceivedEvent receivedEvent = new MessageReceivedEvent();
+                receivedEvent.begin();
+                String message = reader.readLine();
+                receivedEvent.end();
+                if (message == null) {
+                    closeReason = "client disconnected";
+                    break;
+                }
+
+                if (message.equalsIgnoreCase(ChatConstants.EXIT_COMMAND)) {
+                    closeReason = "exit command";
                     break;
+                }
+                if (handleCommand(message))
+                    continue;
+
+                // Only chat messages are recorded, not protocol commands
+                if (receivedEvent.shouldCommit()) {
+                    receivedEvent.userName = userName;
+                    receivedEvent.length = message.length();
+                    receivedEvent.commit();
+                }
+                if (isRateLimited()) {
+                    writer.println(ChatConstants.RATE_LIMITED_MESSAGE);
+                    continue;
+                }
                 sendToAll(userName + ": " + message);
             }
 
@@ -65,6 +141,7 @@ public class ClientHandler extends Thread {
             sendToAll(userName + " has left the chat.");
 
         } catch (SocketTimeoutException e) {
+            closeReason = "read timeout";
             System.out.println("Connection timed out for " + userName);
         } catch (SocketException e) {
             handleSocketException(e);
@@ -75,12 +152,61 @@ public class ClientHandler extends Thread {
         }
     }
 
+    /**
+     * Handles the sequenced delivery commands a client can send instead of a chat
+     * message. These commands are never broadcast or rate limited.
+     * 
+     * @param message the message received from the client.
+     * @return {@code true} if the message was a command and has been handled;
+     *         {@code false} if it is a chat message.
+     */
+    private boolean handleCommand(String message) {
+        if (message.equalsIgnoreCase(ChatConstants.SEQUENCE_COMMAND)) {
+            connection.enableSequencing();
+        } else if (message.equalsIgnoreCase(ChatConstants.RESEND_COMMAND)) {
+            connection.resendUnacknowledged();
+        } else if (message.regionMatches(true, 0, ChatConstants.ACK_COMMAND + " ", 0,
+                ChatConstants.ACK_COMMAND.length() + 1)) {
+            try {
+                connection.acknowledge(
+                        Long.parseLong(message.substring(ChatConstants.ACK_COMMAND.length() + 1).trim()));
+            } catch (NumberFormatException e) {
+                writer.println(ChatConstants.INVALID_ACK_MESSAGE);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Counts a message against the client's rate limit, using a fixed one-second
+     * window. The limit is read from the current configuration on every call, so
+     * a reload takes effect immediately.
+     * 
+     * @return {@code true} if the message exceeds the configured limit and should
+     *         be dropped; {@code false} otherwise.
+     */
+    private boolean isRateLimited() {
+        int limit = Server.getConfig().getRateLimitMessagesPerSecond();
+        if (limit == 0)
+            return false;
+
+        long now = System.currentTimeMillis();
+        if (now - rateWindowStart >= 1000) {
+            rateWindowStart = now;
+            rateWindowCount = 0;
+        }
+        return ++rateWindowCount > limit;
+    }
+
     /**
      * Handles exceptions related to the client's socket.
      * 
      * @param e the SocketException that occurred.
      */
     private void handleSocketException(SocketException e) {
+        closeReason = "socket exception: " + e.getMessage();
         if (socket.isClosed()) {
             System.out.println("Socket closed. Ending client handler for " + userName);
         } else {
@@ -95,13 +221,15 @@ public class ClientHandler extends Thread {
      * @param e the IOException that occurred.
      */
     private void handleClientException(IOException e) {
+        closeReason = "I/O exception: " + e.getMessage();
         System.out.println("Client handler exception: " + e.getMessage());
         e.printStackTrace();
     }
 
     /**
      * Cleans up resources associated with the client connection, including removing
-     * the client from the active connections list and closing the socket.
+     * the client from the active connections list and closing the socket, and
+     * records why the connection was closed.
      * 
      * @param socket the socket to clean up.
      */
@@ -117,22 +245,68 @@ public class ClientHandler extends Thread {
         }
         System.out
                 .println(userName + " disconnected. Active connections: " + Server.getClientConnections().size());
+
+        ConnectionClosedEvent closedEvent = new ConnectionClosedEvent();
+        if (closedEvent.shouldCommit()) {
+            closedEvent.remoteAddress = remoteAddress;
+            closedEvent.userName = userName;
+            closedEvent.reason = closeReason;
+            if (connection != null)
+                closedEvent.lowWaterMark = connection.getLowWaterMark();
+            closedEvent.commit();
+        }
     }
 
     /**
-     * Broadcasts a message to all active clients connected to the server.
+     * Broadcasts a message to all active clients connected to the server. The
+     * message is assigned the next sequence number without locking, and each
+     * connection writes it in sequence order, so concurrent broadcasts reach every
+     * client in the same order. The broadcast as a whole, and any individual write
+     * slower than the slow-write threshold, are recorded as flight recorder
+     * events.
      * 
      * @param message the message to send to all clients.
      */
     private void sendToAll(String message) {
+        BroadcastEvent broadcastEvent = new BroadcastEvent();
+        broadcastEvent.begin();
+        long sequence = Server.nextMessageSequence();
+        int retransmitCapacity = Server.getConfig().getRetransmitBufferSize();
+        int recipients = 0;
+        long bytes = 0;
+
         for (ClientConnection clientConnection : Server.getClientConnections()) {
             try {
                 if (clientConnection.isSocketOpen()) {
-                    clientConnection.getWriter().println(message);
+                    SlowWriteEvent writeEvent = new SlowWriteEvent();
+                    boolean countBytes = broadcastEvent.isEnabled() || writeEvent.isEnabled();
+                    writeEvent.begin();
+                    long written = clientConnection.deliver(sequence, message, retransmitCapacity, countBytes);
+                    writeEvent.end();
+                    recipients++;
+                    bytes += written;
+
+                    if (writeEvent.shouldCommit()) {
+                        writeEvent.userName = userName;
+                        writeEvent.recipientAddress = String
+                                .valueOf(clientConnection.getSocket().getRemoteSocketAddress());
+                        writeEvent.bytes = written;
+                        writeEvent.commit();
+                    }
                 }
             } catch (Exception e) {
                 System.out.println("Error sending message: " + e.getMessage());
             }
         }
+
+        broadcastEvent.end();
+        if (broadcastEvent.shouldCommit()) {
+            broadcastEvent.userName = userName;
+            broadcastEvent.sequence = sequence;
+            broadcastEvent.recipients = recipients;
+            broadcastEvent.bytes = bytes;
+            broadcastEvent.commit();
+        }
     }
+
 }
@@ -0,0 +1,94 @@
+package com.nebulous.chat.server;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A daemon thread that watches the server configuration file and reloads the
+ * configuration whenever the file is created or modified. The file's parent
+ * directory is watched, so a configuration file created after startup is also
+ * picked up. Reloads wait for the file to settle, so a save that arrives as
+ * several events (such as a truncate followed by a write) is read once, in
+ * full.
+ */
+public class ConfigWatcher extends Thread {
+
+    /**
+     * How long the directory must be quiet after a change before the
+     * configuration is reloaded, in milliseconds.
+     */
+    private static final long SETTLE_MILLIS = 250;
+
+    /**
+     * The absolute path of the configuration file being watched.
+     */
+    private Path configFile;
+
+    /**
+     * Constructs a {@code ConfigWatcher} for the given configuration file.
+     *
+     * @param configFile The absolute path of the configuration file to watch.
+     */
+    public ConfigWatcher(Path configFile) {
+        this.configFile = configFile;
+        setName("config-watcher");
+        setDaemon(true);
+    }
+
+    /**
+     * Waits for changes in the configuration file's directory and triggers a
+     * reload when an event concerns the configuration file, once no further
+     * events have arrived for {@link #SETTLE_MILLIS}. The watcher stops if the
+     * directory cannot be watched or the thread is interrupted.
+     */
+    @Override
+    public void run() {
+        Path directory = configFile.getParent();
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = concernsConfigFile(key);
+                if (!key.reset())
+                    break;
+                if (!changed)
+                    continue;
+
+                // A single save can arrive as several events; wait until the file
+                // is quiet so the reload never reads a half-written file
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    key.pollEvents();
+                    if (!key.reset())
+                        return;
+                }
+
+                System.out.println("Configuration file changed. Reloading...");
+                Server.reloadConfig();
+            }
+        } catch (IOException e) {
+            System.out.println("Configuration watcher stopped: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drains the pending events of a watch key and checks whether any of them
+     * concern the configuration file.
+     *
+     * @param key The watch key whose events to check.
+     * @return {@code true} if the configuration file was created or modified;
+     *         {@code false} otherwise.
+     */
+    private boolean concernsConfigFile(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (configFile.getFileName().equals(event.context()))
+                changed = true;
+        }
+        return changed;
+    }
+}
@@ -4,10 +4,13 @@ import java.io.*;
 import java.net.*;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.nebulous.chat.server.events.ConnectionAcceptedEvent;
+import com.nebulous.chat.server.events.ConnectionRejectedEvent;
 import com.nebulous.chat.utils.ChatConstants;
 
 /**
@@ -19,7 +22,15 @@ import com.nebulous.chat.utils.ChatConstants;
  * Key features include:
  * <ul>
  * <li>Thread-safe management of active client connections.</li>
- * <li>A fixed-size thread pool to handle client requests.</li>
+ * <li>Lock-free sequence numbering of chat messages, so every client receives
+ * them in the same order.</li>
+ * <li>A thread pool to handle client requests, resized live when the
+ * configuration is reloaded.</li>
+ * <li>Runtime configuration loaded from file, environment, and command line,
+ * with hot reload via a file watcher or the {@code \reload} console
+ * command.</li>
+ * <li>JDK Flight Recorder events for the connection lifecycle and broadcast
+ * fan-out, in {@link com.nebulous.chat.server.events}.</li>
  * <li>Graceful shutdown that ensures resources are cleaned up properly.</li>
  * </ul>
  */
@@ -35,32 +46,68 @@ public class Server {
      */
     private static Set<ClientConnection> clientConnections = new CopyOnWriteArraySet<>();
 
+    /**
+     * Sequence number of the last chat message broadcast. The server hosts a
+     * single room, so one sequence orders every message.
+     */
+    private static AtomicLong messageSequence = new AtomicLong();
+
     /**
      * Boolean flag to indicate if the server is running.
      */
     private static boolean isServerRunning = true;
 
+    /**
+     * Command-line arguments the server was started with, kept so that reloads
+     * resolve the configuration the same way as startup.
+     */
+    private static String[] serverArgs = new String[0];
+
+    /**
+     * The configuration currently in effect, replaced atomically on reload.
+     */
+    private static volatile ServerConfig config;
+
     /**
      * Thread pool to manage client handler threads
      */
-    private static ExecutorService threadPool = Executors.newFixedThreadPool(ChatConstants.THREAD_POOL_SIZE);
+    private static ThreadPoolExecutor threadPool;
 
     /**
-     * The main entry point of the server. Initializes the server socket,
-     * starts a shutdown listener, and handles incoming client connections.
+     * The main entry point of the server. Loads the configuration, initializes
+     * the server socket, starts the console and configuration watcher threads, and
+     * handles incoming client connections.
      *
-     * @param args Command-line arguments (not used in this implementation).
+     * @param args Configuration overrides of the form {@code --<key>=<value>}; see
+     *             {@link ServerConfig}.
      */
     public static void main(String[] args) {
         System.out.println("Server starting...");
 
-        // Start a thread to listen for shutdown commands
+        ServerConfig.warnUnknownEnvironment();
+        try {
+            serverArgs = args;
+            config = ServerConfig.load(args);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Invalid server configuration: " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.println(config);
+
+        int poolSize = config.getThreadPoolSize();
+        threadPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+
+        // Start a thread to listen for console commands
         new ShutdownThread().start();
 
+        // Start a thread to reload the configuration when its file changes
+        new ConfigWatcher(config.getConfigFile()).start();
+
         try {
 
             // Initialize the server socket and start listening for connections
-            serverSocket = new ServerSocket(ChatConstants.PORT);
+            serverSocket = new ServerSocket(config.getPort());
             System.out.println("Server successfully started. Waiting for connections...");
 
             // Handle incoming client connections
@@ -69,8 +116,14 @@ public class Server {
                     Socket clientSocket = serverSocket.accept();
 
                     // Reject connection if the server is full
-                    if (clientConnections.size() >= ChatConstants.THREAD_POOL_SIZE) {
+                    if (clientConnections.size() >= config.getThreadPoolSize()) {
                         System.out.println("Server is full. Rejecting new connection.");
+                        ConnectionRejectedEvent rejectedEvent = new ConnectionRejectedEvent();
+                        if (rejectedEvent.shouldCommit()) {
+                            rejectedEvent.remoteAddress = String.valueOf(clientSocket.getRemoteSocketAddress());
+                            rejectedEvent.reason = "server full";
+                            rejectedEvent.commit();
+                        }
                         PrintWriter tempWriter = new PrintWriter(clientSocket.getOutputStream(), true);
                         tempWriter.println(ChatConstants.SERVER_FULL_MESSAGE); // Alert the client
                         tempWriter.flush(); // Make sure tempWriter flushed
@@ -78,6 +131,14 @@ public class Server {
                         continue;
                     }
 
+                    // Record the accept against the same count the full check used
+                    ConnectionAcceptedEvent acceptedEvent = new ConnectionAcceptedEvent();
+                    if (acceptedEvent.shouldCommit()) {
+                        acceptedEvent.remoteAddress = String.valueOf(clientSocket.getRemoteSocketAddress());
+                        acceptedEvent.registeredConnections = clientConnections.size();
+                        acceptedEvent.commit();
+                    }
+
                     // Submit a new client handler task to the thread pool
                     threadPool.submit(new ClientHandler(clientSocket));
                 } catch (SocketException e) {
@@ -105,6 +166,84 @@ public class Server {
         return clientConnections;
     }
 
+    /**
+     * Registers a client connection for broadcasts. The connection is added to the
+     * active set before its starting sequence number is read, and both happen
+     * under the connection's lock, so any message numbered at or after its start
+     * is guaranteed to be delivered to it.
+     *
+     * @param clientConnection The connection to register.
+     */
+    public static void addClientConnection(ClientConnection clientConnection) {
+        synchronized (clientConnection) {
+            clientConnections.add(clientConnection);
+            clientConnection.startSequence(messageSequence.get() + 1);
+        }
+    }
+
+    /**
+     * Assigns the next chat message sequence number.
+     *
+     * @return A sequence number greater than any previously assigned.
+     */
+    public static long nextMessageSequence() {
+        return messageSequence.incrementAndGet();
+    }
+
+    /**
+     * Returns the configuration currently in effect.
+     *
+     * @return The current {@link ServerConfig}.
+     */
+    public static ServerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Reloads the configuration and applies the new values to the running server
+     * without dropping any connections. If the new configuration is invalid, the
+     * current configuration stays in effect.
+     */
+    public static synchronized void reloadConfig() {
+        ServerConfig newConfig;
+        try {
+            newConfig = ServerConfig.load(serverArgs);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Configuration reload failed, keeping current values: " + e.getMessage());
+            return;
+        }
+
+        if (newConfig.getPort() != config.getPort())
+            System.out.println("Port change to " + newConfig.getPort() + " takes effect after a restart.");
+        for (String key : newConfig.getShadowedFileChanges(config))
+            System.out.println(key + " changed in the configuration file but is overridden by "
+                    + newConfig.getOverrideSource(key) + ".");
+
+        // Resize the pool in an order that keeps core size <= maximum size.
+        // Shrinking only retires idle threads, so active handlers are unaffected.
+        int poolSize = newConfig.getThreadPoolSize();
+        if (poolSize > threadPool.getMaximumPoolSize()) {
+            threadPool.setMaximumPoolSize(poolSize);
+            threadPool.setCorePoolSize(poolSize);
+        } else {
+            threadPool.setCorePoolSize(poolSize);
+            threadPool.setMaximumPoolSize(poolSize);
+        }
+
+        // Apply the read timeout to connections that are already open
+        for (ClientConnection clientConnection : clientConnections) {
+            try {
+                clientConnection.getSocket().setSoTimeout(newConfig.getSocketTimeoutMillis());
+            } catch (SocketException e) {
+                System.out.println("Could not update socket timeout: " + e.getMessage());
+            }
+        }
+
+        config = newConfig;
+        System.out.println("Configuration reloaded.");
+        System.out.println(config);
+    }
+
     /**
      * Shuts down the server gracefully by closing all client connections,
      * stopping the thread pool, and releasing server resources.
@@ -130,7 +269,7 @@ public class Server {
 
             // Shut down the thread pool
             threadPool.shutdown();
-            if (!threadPool.awaitTermination(30, TimeUnit.SECONDS)) {
+            if (!threadPool.awaitTermination(config.getShutdownTimeoutSeconds(), TimeUnit.SECONDS)) {
                 threadPool.shutdownNow(); // Force shutdown if tasks don't terminate
             }
 
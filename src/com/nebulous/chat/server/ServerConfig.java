@@ -0,0 +1,404 @@
+package com.nebulous.chat.server;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import com.nebulous.chat.utils.ChatConstants;
+
+/**
+ * An immutable snapshot of the server's runtime configuration. Values are
+ * resolved in layers, each overriding the one before it:
+ * <ol>
+ * <li>The defaults defined in {@link ChatConstants}.</li>
+ * <li>A properties file, {@value ChatConstants#DEFAULT_CONFIG_FILE} by default,
+ * or the path given by {@code --config=<path>} or the
+ * {@code NEBULOUS_CONFIG} environment variable.</li>
+ * <li>Environment variables, named after the property key in upper case with
+ * dots replaced by underscores and prefixed with {@code NEBULOUS_} (for example
+ * {@code NEBULOUS_THREAD_POOL_SIZE}).</li>
+ * <li>Command-line arguments of the form {@code --<key>=<value>} (for example
+ * {@code --thread.pool.size=8}).</li>
+ * </ol>
+ * A reload simply loads a new snapshot from the same arguments; the server then
+ * applies the new values to its running components. Unknown keys in the file or
+ * on the command line are rejected, so a typo never silently falls back to a
+ * default.
+ */
+public class ServerConfig {
+
+    /**
+     * Property key for the port the server listens on.
+     */
+    public static final String PORT_KEY = "port";
+
+    /**
+     * Property key for the size of the client handler thread pool, which is also
+     * the maximum number of concurrent client connections.
+     */
+    public static final String THREAD_POOL_SIZE_KEY = "thread.pool.size";
+
+    /**
+     * Property key for the client socket read timeout in milliseconds.
+     */
+    public static final String SOCKET_TIMEOUT_KEY = "socket.timeout.millis";
+
+    /**
+     * Property key for the maximum number of messages a client may send per
+     * second.
+     */
+    public static final String RATE_LIMIT_KEY = "rate.limit.messages.per.second";
+
+    /**
+     * Property key for the time the server waits for client handlers to finish
+     * during shutdown, in seconds.
+     */
+    public static final String SHUTDOWN_TIMEOUT_KEY = "shutdown.timeout.seconds";
+
+    /**
+     * Property key for the maximum number of unacknowledged messages kept for
+     * each client using sequenced delivery.
+     */
+    public static final String RETRANSMIT_BUFFER_SIZE_KEY = "retransmit.buffer.size";
+
+    /**
+     * Property key (and command-line option) naming the configuration file.
+     */
+    public static final String CONFIG_FILE_KEY = "config";
+
+    /**
+     * Every tunable property key.
+     */
+    private static final List<String> KEYS = List.of(PORT_KEY, THREAD_POOL_SIZE_KEY, SOCKET_TIMEOUT_KEY,
+            RATE_LIMIT_KEY, SHUTDOWN_TIMEOUT_KEY, RETRANSMIT_BUFFER_SIZE_KEY);
+
+    /**
+     * Prefix applied to environment variable names.
+     */
+    private static final String ENV_PREFIX = "NEBULOUS_";
+
+    /**
+     * The port number the server listens on. Changing this requires a restart.
+     */
+    private final int port;
+
+    /**
+     * The size of the client handler thread pool.
+     */
+    private final int threadPoolSize;
+
+    /**
+     * The client socket read timeout in milliseconds, where {@code 0} means
+     * no timeout.
+     */
+    private final int socketTimeoutMillis;
+
+    /**
+     * The maximum number of messages per second accepted from a single client,
+     * where {@code 0} means unlimited.
+     */
+    private final int rateLimitMessagesPerSecond;
+
+    /**
+     * The time to wait for client handlers during shutdown, in seconds.
+     */
+    private final int shutdownTimeoutSeconds;
+
+    /**
+     * The maximum number of unacknowledged messages kept per sequenced client.
+     */
+    private final int retransmitBufferSize;
+
+    /**
+     * The configuration file this snapshot was loaded from.
+     */
+    private final Path configFile;
+
+    /**
+     * The values read from the configuration file, before any overrides.
+     */
+    private final Properties fileProperties;
+
+    /**
+     * Keys overridden by the environment or the command line, mapped to a
+     * description of the overriding source.
+     */
+    private final Map<String, String> overrides;
+
+    /**
+     * Constructs a {@code ServerConfig} from fully resolved properties.
+     *
+     * @param properties     The resolved configuration properties.
+     * @param configFile     The configuration file the properties were loaded
+     *                       from.
+     * @param fileProperties The values read from the configuration file.
+     * @param overrides      Keys overridden by the environment or the command
+     *                       line, mapped to the overriding source.
+     * @throws IllegalArgumentException If a value is missing, malformed, or out of
+     *                                  range.
+     */
+    private ServerConfig(Properties properties, Path configFile, Properties fileProperties,
+            Map<String, String> overrides) {
+        this.port = parse(properties, PORT_KEY, 1, 65535);
+        this.threadPoolSize = parse(properties, THREAD_POOL_SIZE_KEY, 1, Integer.MAX_VALUE);
+        this.socketTimeoutMillis = parse(properties, SOCKET_TIMEOUT_KEY, 0, Integer.MAX_VALUE);
+        this.rateLimitMessagesPerSecond = parse(properties, RATE_LIMIT_KEY, 0, Integer.MAX_VALUE);
+        this.shutdownTimeoutSeconds = parse(properties, SHUTDOWN_TIMEOUT_KEY, 0, Integer.MAX_VALUE);
+        this.retransmitBufferSize = parse(properties, RETRANSMIT_BUFFER_SIZE_KEY, 0, Integer.MAX_VALUE);
+        this.configFile = configFile;
+        this.fileProperties = fileProperties;
+        this.overrides = overrides;
+    }
+
+    /**
+     * Loads a configuration snapshot from the defaults, the configuration file,
+     * the environment, and the given command-line arguments.
+     *
+     * @param args The server's command-line arguments.
+     * @return The resolved configuration.
+     * @throws IllegalArgumentException If an argument is malformed, a key is
+     *                                  unknown, or a value is out of range.
+     * @throws IOException              If the configuration file exists but cannot
+     *                                  be read.
+     */
+    public static ServerConfig load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(PORT_KEY, String.valueOf(ChatConstants.PORT));
+        properties.setProperty(THREAD_POOL_SIZE_KEY, String.valueOf(ChatConstants.THREAD_POOL_SIZE));
+        properties.setProperty(SOCKET_TIMEOUT_KEY, String.valueOf(ChatConstants.SOCKET_TIMEOUT_MILLIS));
+        properties.setProperty(RATE_LIMIT_KEY, String.valueOf(ChatConstants.RATE_LIMIT_MESSAGES_PER_SECOND));
+        properties.setProperty(SHUTDOWN_TIMEOUT_KEY, String.valueOf(ChatConstants.SHUTDOWN_TIMEOUT_SECONDS));
+        properties.setProperty(RETRANSMIT_BUFFER_SIZE_KEY, String.valueOf(ChatConstants.RETRANSMIT_BUFFER_SIZE));
+
+        Properties commandLine = parseArgs(args);
+
+        // Resolve the config file location: CLI, then environment, then default
+        String fileName = commandLine.getProperty(CONFIG_FILE_KEY,
+                System.getenv().getOrDefault(toEnvName(CONFIG_FILE_KEY), ChatConstants.DEFAULT_CONFIG_FILE));
+        Path configFile = Paths.get(fileName).toAbsolutePath();
+        commandLine.remove(CONFIG_FILE_KEY);
+
+        // Layer the file, then environment variables, then the command line
+        Properties fileProperties = new Properties();
+        if (Files.isRegularFile(configFile)) {
+            try (Reader reader = Files.newBufferedReader(configFile)) {
+                fileProperties.load(reader);
+            }
+        }
+        checkKnownKeys(fileProperties, configFile.toString());
+        properties.putAll(fileProperties);
+
+        Map<String, String> overrides = new HashMap<>();
+        for (String key : KEYS) {
+            String value = System.getenv(toEnvName(key));
+            if (value != null) {
+                properties.setProperty(key, value);
+                overrides.put(key, "environment variable " + toEnvName(key));
+            }
+        }
+        for (String key : commandLine.stringPropertyNames())
+            overrides.put(key, "the command line");
+        properties.putAll(commandLine);
+
+        return new ServerConfig(properties, configFile, fileProperties, overrides);
+    }
+
+    /**
+     * Parses command-line arguments of the form {@code --<key>=<value>}.
+     *
+     * @param args The command-line arguments.
+     * @return The parsed key-value pairs.
+     * @throws IllegalArgumentException If an argument is not of the expected form
+     *                                  or names an unknown key.
+     */
+    private static Properties parseArgs(String[] args) {
+        Properties properties = new Properties();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 3)
+                throw new IllegalArgumentException("Expected --<key>=<value> but got: " + arg);
+            properties.setProperty(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Properties keys = new Properties();
+        keys.putAll(properties);
+        keys.remove(CONFIG_FILE_KEY);
+        checkKnownKeys(keys, "the command line");
+        return properties;
+    }
+
+    /**
+     * Checks that every key in the given properties is a known configuration key.
+     *
+     * @param properties The properties to check.
+     * @param source     Where the properties came from, for the error message.
+     * @throws IllegalArgumentException If a key is unknown.
+     */
+    private static void checkKnownKeys(Properties properties, String source) {
+        for (String key : properties.stringPropertyNames()) {
+            if (!KEYS.contains(key))
+                throw new IllegalArgumentException(
+                        "Unknown configuration key '" + key + "' in " + source + ". Known keys: " + KEYS);
+        }
+    }
+
+    /**
+     * Prints a warning for every {@code NEBULOUS_} environment variable that does
+     * not correspond to a configuration key. Unknown variables are only reported,
+     * not rejected, since the environment is shared with other tools. The
+     * environment cannot change while the server runs, so this only needs to be
+     * called once, at startup.
+     */
+    public static void warnUnknownEnvironment() {
+        for (String name : System.getenv().keySet()) {
+            if (name.startsWith(ENV_PREFIX) && !name.equals(toEnvName(CONFIG_FILE_KEY))
+                    && KEYS.stream().noneMatch(key -> toEnvName(key).equals(name)))
+                System.out.println("Ignoring unknown configuration environment variable: " + name);
+        }
+    }
+
+    /**
+     * Converts a property key into its environment variable name.
+     *
+     * @param key The property key.
+     * @return The environment variable name.
+     */
+    private static String toEnvName(String key) {
+        return ENV_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_');
+    }
+
+    /**
+     * Parses an integer property and checks that it lies within range.
+     *
+     * @param properties The properties to read from.
+     * @param key        The property key.
+     * @param min        The minimum allowed value.
+     * @param max        The maximum allowed value.
+     * @return The parsed value.
+     * @throws IllegalArgumentException If the value is malformed or out of range.
+     */
+    private static int parse(Properties properties, String key, int min, int max) {
+        String value = properties.getProperty(key, "").trim();
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max)
+                throw new IllegalArgumentException(
+                        key + " must be between " + min + " and " + max + " but was " + parsed);
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer but was '" + value + "'");
+        }
+    }
+
+    /**
+     * Returns the port number the server listens on.
+     *
+     * @return The port number.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Returns the size of the client handler thread pool, which is also the
+     * maximum number of concurrent client connections.
+     *
+     * @return The thread pool size.
+     */
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    /**
+     * Returns the client socket read timeout.
+     *
+     * @return The timeout in milliseconds, or {@code 0} for no timeout.
+     */
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    /**
+     * Returns the maximum number of messages per second accepted from a single
+     * client.
+     *
+     * @return The rate limit, or {@code 0} for unlimited.
+     */
+    public int getRateLimitMessagesPerSecond() {
+        return rateLimitMessagesPerSecond;
+    }
+
+    /**
+     * Returns the time to wait for client handlers during shutdown.
+     *
+     * @return The shutdown timeout in seconds.
+     */
+    public int getShutdownTimeoutSeconds() {
+        return shutdownTimeoutSeconds;
+    }
+
+    /**
+     * Returns the maximum number of unacknowledged messages kept for each client
+     * using sequenced delivery.
+     *
+     * @return The retransmit buffer size.
+     */
+    public int getRetransmitBufferSize() {
+        return retransmitBufferSize;
+    }
+
+    /**
+     * Returns the configuration file this snapshot was loaded from. The file may
+     * not exist, in which case only the other layers were applied.
+     *
+     * @return The absolute path of the configuration file.
+     */
+    public Path getConfigFile() {
+        return configFile;
+    }
+
+    /**
+     * Lists the keys whose value in the configuration file differs from the given
+     * snapshot but has no effect, because the key is overridden by the environment
+     * or the command line.
+     *
+     * @param previous The snapshot to compare the configuration file against.
+     * @return The shadowed keys, in a stable order.
+     */
+    public List<String> getShadowedFileChanges(ServerConfig previous) {
+        List<String> shadowed = new ArrayList<>();
+        for (String key : KEYS) {
+            if (overrides.containsKey(key) && !Objects.equals(fileProperties.getProperty(key),
+                    previous.fileProperties.getProperty(key)))
+                shadowed.add(key);
+        }
+        return shadowed;
+    }
+
+    /**
+     * Describes where an overridden key's value comes from.
+     *
+     * @param key The property key.
+     * @return The overriding source, or {@code null} if the key is not overridden.
+     */
+    public String getOverrideSource(String key) {
+        return overrides.get(key);
+    }
+
+    /**
+     * Returns a readable summary of every configuration value, suitable for
+     * printing to the server console.
+     *
+     * @return The configuration summary.
+     */
+    @Override
+    public String toString() {
+        return "Server configuration (" + configFile + "):"
+                + "\n  " + PORT_KEY + "=" + port
+                + "\n  " + THREAD_POOL_SIZE_KEY + "=" + threadPoolSize
+                + "\n  " + SOCKET_TIMEOUT_KEY + "=" + socketTimeoutMillis
+                + "\n  " + RATE_LIMIT_KEY + "=" + rateLimitMessagesPerSecond
+                + "\n  " + SHUTDOWN_TIMEOUT_KEY + "=" + shutdownTimeoutSeconds
+                + "\n  " + RETRANSMIT_BUFFER_SIZE_KEY + "=" + retransmitBufferSize;
+    }
+}
@@ -5,15 +5,18 @@ import java.util.Scanner;
 import com.nebulous.chat.utils.ChatConstants;
 
 /**
- * A thread that listens for a shutdown command from the server administrator.
- * This thread continuously monitors the server console for user input and
- * triggers a server shutdown when the specified exit command is entered.
+ * A thread that listens for commands from the server administrator. This
+ * thread continuously monitors the server console for user input, triggers a
+ * server shutdown when the exit command is entered, and handles the
+ * configuration reload and display commands.
  */
 public class ShutdownThread extends Thread {
 
     /**
      * Continuously monitors the server console for user input. If the input matches
-     * the server's exit command, it initiates the server shutdown process.
+     * the server's exit command, it initiates the server shutdown process. The
+     * reload command re-reads the configuration, and the config command prints the
+     * configuration currently in effect.
      */
     @Override
     public void run() {
@@ -23,6 +26,10 @@ public class ShutdownThread extends Thread {
                 if (input.equalsIgnoreCase(ChatConstants.EXIT_COMMAND)) {
                     Server.shutdownServer();
                     break;
+                } else if (input.equalsIgnoreCase(ChatConstants.RELOAD_COMMAND)) {
+                    Server.reloadConfig();
+                } else if (input.equalsIgnoreCase(ChatConstants.CONFIG_COMMAND)) {
+                    System.out.println(Server.getConfig());
                 }
             }
         }
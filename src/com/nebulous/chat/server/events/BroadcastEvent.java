@@ -0,0 +1,43 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event spanning one broadcast, from the start of the iteration over
+ * active connections to the last write. The event's start time and duration
+ * mark when the broadcast started and completed.
+ */
+@Name("com.nebulous.chat.Broadcast")
+@Label("Broadcast")
+@Description("A message was written to every active client")
+@Category({ "Nebulous Chat", "Server" })
+@StackTrace(false)
+public class BroadcastEvent extends Event {
+
+    /**
+     * The username of the client that sent the message.
+     */
+    @Label("Sender")
+    public String userName;
+
+    /**
+     * The sequence number assigned to the message.
+     */
+    @Label("Sequence")
+    public long sequence;
+
+    /**
+     * The number of clients the message was written to.
+     */
+    @Label("Recipients")
+    public int recipients;
+
+    /**
+     * The total number of bytes written across all recipients, including sequence
+     * number prefixes and any earlier messages flushed in order along with this
+     * one.
+     */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
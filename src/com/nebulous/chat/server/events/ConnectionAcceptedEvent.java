@@ -0,0 +1,30 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recorded when the server accepts a client connection and submits
+ * it to the client handler thread pool.
+ */
+@Name("com.nebulous.chat.ConnectionAccepted")
+@Label("Connection Accepted")
+@Description("A client connection was accepted and handed to the thread pool")
+@Category({ "Nebulous Chat", "Server" })
+@StackTrace(false)
+public class ConnectionAcceptedEvent extends Event {
+
+    /**
+     * The remote address and port of the client.
+     */
+    @Label("Remote Address")
+    public String remoteAddress;
+
+    /**
+     * The number of registered connections when the connection was accepted, not
+     * counting this one. This is the count the server-full check compares against
+     * the thread pool size.
+     */
+    @Label("Registered Connections")
+    @Description("Registered connections at accept time, not counting this one")
+    public int registeredConnections;
+}
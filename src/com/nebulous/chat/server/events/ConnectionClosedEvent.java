@@ -0,0 +1,40 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recorded when a client connection is cleaned up, together with
+ * the reason it was closed.
+ */
+@Name("com.nebulous.chat.ConnectionClosed")
+@Label("Connection Closed")
+@Description("A client connection was closed")
+@Category({ "Nebulous Chat", "Server" })
+@StackTrace(false)
+public class ConnectionClosedEvent extends Event {
+
+    /**
+     * The remote address and port of the client.
+     */
+    @Label("Remote Address")
+    public String remoteAddress;
+
+    /**
+     * The username of the client.
+     */
+    @Label("User Name")
+    public String userName;
+
+    /**
+     * Why the connection was closed.
+     */
+    @Label("Reason")
+    public String reason;
+
+    /**
+     * The highest sequence number the client acknowledged, or {@code 0} if it
+     * never acknowledged a message.
+     */
+    @Label("Low-Water Mark")
+    public long lowWaterMark;
+}
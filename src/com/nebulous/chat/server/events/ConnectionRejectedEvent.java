@@ -0,0 +1,27 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recorded when the server turns a client connection away, for
+ * example because the server is full.
+ */
+@Name("com.nebulous.chat.ConnectionRejected")
+@Label("Connection Rejected")
+@Description("A client connection was rejected")
+@Category({ "Nebulous Chat", "Server" })
+@StackTrace(false)
+public class ConnectionRejectedEvent extends Event {
+
+    /**
+     * The remote address and port of the client.
+     */
+    @Label("Remote Address")
+    public String remoteAddress;
+
+    /**
+     * Why the connection was rejected.
+     */
+    @Label("Reason")
+    public String reason;
+}
@@ -0,0 +1,29 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event spanning a client's handshake, from the moment the connection is
+ * handed to its handler to the point where its username has been read and its
+ * connection registered. The event duration shows time spent waiting for the
+ * client and for a free handler thread.
+ */
+@Name("com.nebulous.chat.HandshakeComplete")
+@Label("Handshake Complete")
+@Description("A client sent its username and was registered for broadcasts")
+@Category({ "Nebulous Chat", "Server" })
+@StackTrace(false)
+public class HandshakeCompleteEvent extends Event {
+
+    /**
+     * The remote address and port of the client.
+     */
+    @Label("Remote Address")
+    public String remoteAddress;
+
+    /**
+     * The username of the client.
+     */
+    @Label("User Name")
+    public String userName;
+}
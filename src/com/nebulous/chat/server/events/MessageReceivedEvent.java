@@ -0,0 +1,29 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event recorded for each chat message read from a client. The event
+ * duration covers the blocking read, so long events show idle clients rather
+ * than server load. Commands such as {@code \ack} are not chat messages and are
+ * not recorded.
+ */
+@Name("com.nebulous.chat.MessageReceived")
+@Label("Message Received")
+@Description("A chat message was read from a client")
+@Category({ "Nebulous Chat", "Server" })
+@StackTrace(false)
+public class MessageReceivedEvent extends Event {
+
+    /**
+     * The username of the client.
+     */
+    @Label("User Name")
+    public String userName;
+
+    /**
+     * The length of the message in characters.
+     */
+    @Label("Length")
+    public int length;
+}
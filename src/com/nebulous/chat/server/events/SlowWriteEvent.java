@@ -0,0 +1,39 @@
+package com.nebulous.chat.server.events;
+
+import jdk.jfr.*;
+
+/**
+ * A JFR event spanning the delivery of one message to one client, including
+ * any wait for another thread writing to the same client. Only deliveries that
+ * take longer than the event threshold, which defaults to 20 ms and can be
+ * changed in the recording settings, are recorded, so a blocked
+ * {@code println} on a slow client stands out without recording every write.
+ */
+@Name("com.nebulous.chat.SlowWrite")
+@Label("Slow Write")
+@Description("Writing a message to a single client took longer than the threshold")
+@Category({ "Nebulous Chat", "Server" })
+@Threshold("20 ms")
+@StackTrace(false)
+public class SlowWriteEvent extends Event {
+
+    /**
+     * The username of the client that sent the message.
+     */
+    @Label("Sender")
+    public String userName;
+
+    /**
+     * The remote address and port of the recipient.
+     */
+    @Label("Recipient Address")
+    public String recipientAddress;
+
+    /**
+     * The number of bytes written, including sequence number prefixes and any
+     * earlier messages flushed in order along with this one.
+     */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -13,12 +13,44 @@ public class ChatConstants {
     public static final int PORT = 55555;
 
     /**
-     * The maximum number of threads in the server's thread pool. This value
-     * determines the maximum number of concurrent client connections the server
-     * can handle.
+     * The default maximum number of threads in the server's thread pool. This
+     * value determines the maximum number of concurrent client connections the
+     * server can handle, and can be overridden at runtime through the server
+     * configuration.
      */
     public static final int THREAD_POOL_SIZE = 2;
 
+    /**
+     * The default client socket read timeout in milliseconds. A value of
+     * {@code 0} means the server waits indefinitely for client messages.
+     */
+    public static final int SOCKET_TIMEOUT_MILLIS = 0;
+
+    /**
+     * The default maximum number of messages per second the server accepts from a
+     * single client. A value of {@code 0} disables rate limiting.
+     */
+    public static final int RATE_LIMIT_MESSAGES_PER_SECOND = 0;
+
+    /**
+     * The default number of seconds the server waits for client handlers to
+     * finish during shutdown.
+     */
+    public static final int SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /**
+     * The default maximum number of unacknowledged messages the server keeps for
+     * each client using sequenced delivery. Older messages are discarded and can
+     * no longer be resent.
+     */
+    public static final int RETRANSMIT_BUFFER_SIZE = 256;
+
+    /**
+     * The default name of the server configuration file, resolved against the
+     * server's working directory.
+     */
+    public static final String DEFAULT_CONFIG_FILE = "nebulous-server.properties";
+
     /**
      * The default username assigned to a client if none is provided.
      */
@@ -29,6 +61,49 @@ public class ChatConstants {
      */
     public static final String EXIT_COMMAND = "\\q";
 
+    /**
+     * The command the server administrator can use to reload the server
+     * configuration without a restart.
+     */
+    public static final String RELOAD_COMMAND = "\\reload";
+
+    /**
+     * The command the server administrator can use to print the configuration
+     * currently in effect.
+     */
+    public static final String CONFIG_COMMAND = "\\config";
+
+    /**
+     * The command a client can use to switch to sequenced delivery, where every
+     * chat message is prefixed with its sequence number (for example
+     * {@code #42 bob: hello}) and kept until acknowledged.
+     */
+    public static final String SEQUENCE_COMMAND = "\\seq";
+
+    /**
+     * The command a client using sequenced delivery can use to acknowledge every
+     * message up to a sequence number, for example {@code \ack 42}.
+     */
+    public static final String ACK_COMMAND = "\\ack";
+
+    /**
+     * The command a client using sequenced delivery can use to have every
+     * unacknowledged message sent again.
+     */
+    public static final String RESEND_COMMAND = "\\resend";
+
+    /**
+     * The prefix that marks a chat message's sequence number in sequenced
+     * delivery. The number follows the prefix and is separated from the message by
+     * a single space.
+     */
+    public static final String SEQUENCE_PREFIX = "#";
+
+    /**
+     * The number of chat messages the client receives between acknowledgements.
+     */
+    public static final int ACK_INTERVAL = 10;
+
     /**
      * A message sent by the server to notify clients that the server is shutting
      * down.
@@ -41,4 +116,16 @@ public class ChatConstants {
      */
     public static final String SERVER_FULL_MESSAGE = "Server is full. Try again later.";
 
+    /**
+     * A message sent by the server to notify a client that a message was dropped
+     * because the client exceeded the configured rate limit.
+     */
+    public static final String RATE_LIMITED_MESSAGE = "You are sending messages too quickly. Message dropped.";
+
+    /**
+     * A message sent by the server to notify a client that an acknowledgement
+     * could not be understood.
+     */
+    public static final String INVALID_ACK_MESSAGE = "Invalid acknowledgement. Usage: \\ack <sequence number>";
+
 }